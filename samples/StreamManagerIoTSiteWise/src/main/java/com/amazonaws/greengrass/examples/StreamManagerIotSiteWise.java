@@ -6,6 +6,8 @@
  * This example will create a Greengrass StreamManager stream called "SomeStream".
  * It will then start writing data into that stream and StreamManager will
  * automatically export the written data to the customer-created property alias.
+ * Values are sampled once per second and appended in batches of up to 10 values per
+ * entry, so each message carries several values instead of just one.
  * The property alias should be created before running this example.
  * This example will run forever, until the program is killed.
 
@@ -41,6 +43,8 @@ import java.util.UUID;
 public class StreamManagerIotSiteWise {
     private static final String STREAM_NAME = "SomeStream";
     private static final String PROPERTY_ALIAS = "SomePropertyAlias";
+    // IoTSiteWise accepts at most 10 property values in a single entry.
+    private static final int MAX_VALUES_PER_ENTRY = 10;
 
     /**
      * Empty handler because this will be a long-lived lambda
@@ -71,13 +75,23 @@ public class StreamManagerIotSiteWise {
                             .withStrategyOnFull(StrategyOnFull.OverwriteOldestData)
                             .withExportDefinition(exports));
 
-            // Now start putting in random site wise entries.
+            // Now start putting in random site wise values, batched into entries of up to MAX_VALUES_PER_ENTRY values.
+            Random rand = new Random();
+            List<AssetPropertyValue> values = new ArrayList<>(MAX_VALUES_PER_ENTRY);
             while (true) {
-                PutAssetPropertyValueEntry putAssetPropertyValueEntry = getRandomPutAssetPropertyValueEntry();
-                System.out.println(
-                        String.format("Successfully appended message to stream with sequence number %d",
-                                client.appendMessage(STREAM_NAME, ValidateAndSerialize.validateAndSerializeToJsonBytes(putAssetPropertyValueEntry))));
-                // Sleeping for 5 seconds before trying to send another IoTSiteWise entry.
+                values.add(getRandomAssetPropertyValue(rand));
+                if (values.size() >= MAX_VALUES_PER_ENTRY) {
+                    PutAssetPropertyValueEntry putAssetPropertyValueEntry = new PutAssetPropertyValueEntry()
+                            .withEntryId(UUID.randomUUID().toString())
+                            .withPropertyAlias(PROPERTY_ALIAS)
+                            .withPropertyValues(values);
+                    System.out.println(
+                            String.format("Successfully appended message with %d values to stream with sequence number %d",
+                                    values.size(),
+                                    client.appendMessage(STREAM_NAME, ValidateAndSerialize.validateAndSerializeToJsonBytes(putAssetPropertyValueEntry))));
+                    values = new ArrayList<>(MAX_VALUES_PER_ENTRY);
+                }
+                // Sleeping for 1 second before sampling another IoTSiteWise value.
                 Thread.sleep(Duration.ofSeconds(1).toMillis());
             }
 
@@ -91,15 +105,14 @@ public class StreamManagerIotSiteWise {
     }
 
     /**
-     * This function will create a random asset property value entry and return it to the caller.
+     * This function will create a random asset property value and return it to the caller.
      *
-     * @return random PutAssetPropertyValueEntry object.
+     * @param rand source of the random value and timestamp.
+     * @return random AssetPropertyValue object.
      */
-    private static PutAssetPropertyValueEntry getRandomPutAssetPropertyValueEntry() {
-        Random rand = new Random();
+    private static AssetPropertyValue getRandomAssetPropertyValue(Random rand) {
         // Note: Inorder to create a new asset property data, you should use the classes defined in the
         // com.amazonaws.greengrass.streammanager.model.sitewise package.
-        List<AssetPropertyValue> entries = new ArrayList<>() ;
 
         // IoTSiteWise requires unique timestamps in all messages and also needs timstamps not earlier
         // than 10 mins in the past. Add some randomness to time and offset.
@@ -109,15 +122,9 @@ public class StreamManagerIotSiteWise {
         TimeInNanos timestamp = new TimeInNanos()
                 .withTimeInSeconds(Instant.now().getEpochSecond() - rand.nextInt(maxTimeRandomness))
                 .withOffsetInNanos((long) (rand.nextInt(maxOffsetRandomness)));
-        AssetPropertyValue entry = new AssetPropertyValue()
+        return new AssetPropertyValue()
                 .withValue(new Variant().withDoubleValue(randomValue))
                 .withQuality(Quality.GOOD)
                 .withTimestamp(timestamp);
-        entries.add(entry);
-
-        return new PutAssetPropertyValueEntry()
-                .withEntryId(UUID.randomUUID().toString())
-                .withPropertyAlias(PROPERTY_ALIAS)
-                .withPropertyValues(entries);
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ package com.amazonaws.greengrass.examples;
 
 import com.amazonaws.greengrass.javasdk.GreengrassClientBuilder;
 import com.amazonaws.greengrass.streammanager.client.StreamManagerClient;
+import com.amazonaws.greengrass.streammanager.client.exception.NotEnoughMessagesException;
 import com.amazonaws.greengrass.streammanager.client.exception.ResourceNotFoundException;
 import com.amazonaws.greengrass.streammanager.client.exception.StreamManagerException;
 import com.amazonaws.greengrass.streammanager.client.utils.ValidateAndSerialize;
@@ -23,6 +24,7 @@ import com.amazonaws.greengrass.streammanager.model.ReadMessagesOptions;
 import com.amazonaws.greengrass.streammanager.model.S3ExportTaskDefinition;
 import com.amazonaws.greengrass.streammanager.model.Status;
 import com.amazonaws.greengrass.streammanager.model.StatusConfig;
+import com.amazonaws.greengrass.streammanager.model.StatusContext;
 import com.amazonaws.greengrass.streammanager.model.StatusLevel;
 import com.amazonaws.greengrass.streammanager.model.StatusMessage;
 import com.amazonaws.greengrass.streammanager.model.StrategyOnFull;
@@ -39,6 +41,9 @@ public class StreamManagerS3 {
     private static final String BUCKET = "SomeBucket";
     private static final String KEY = "SomeKey";
     private static final String FILE_URL = "file:/path/to/some/file.someExtension";
+    private static final long STATUS_READ_TIMEOUT_MILLIS = 10000L;
+    private static final long MAX_STATUS_MESSAGES_PER_READ = 100L;
+    private static final long RETRY_DELAY_MILLIS = 1000L;
 
     /**
      * Empty handler because this will be a pinned lambda
@@ -90,21 +95,35 @@ public class StreamManagerS3 {
                     .withBucket(BUCKET)
                     .withKey(KEY)
                     .withInputUrl(FILE_URL);
+            final long taskSequenceNumber = client.appendMessage(STREAM_NAME,
+                    ValidateAndSerialize.validateAndSerializeToJsonBytes(s3ExportTaskDefinition));
             System.out.println(
-                    String.format("Successfully appended message to stream with sequence number %d",
-                            client.appendMessage(STREAM_NAME,
-                                    ValidateAndSerialize.validateAndSerializeToJsonBytes(s3ExportTaskDefinition))));
+                    String.format("Successfully appended message to stream with sequence number %d", taskSequenceNumber));
 
             System.out.println("Now going to start reading statuses from the export status stream.");
+            // Sequence number of the next status message to read, so that each read only returns new statuses.
+            long nextStatusSequenceNumber = 0;
             boolean isS3UploadComplete = false;
             while (!isS3UploadComplete) {
                 try {
-                    // Read the statuses from the export status stream
+                    // Read the statuses from the export status stream. The read waits on the server until
+                    // at least one new status is available or the read timeout expires, so there is no need
+                    // to sleep between reads.
                     List<Message> messages = client.readMessages(STATUS_STREAM_NAME,
-                            new ReadMessagesOptions().withMinMessageCount(1L).withReadTimeoutMillis(1000L));
+                            new ReadMessagesOptions()
+                                    .withDesiredStartSequenceNumber(nextStatusSequenceNumber)
+                                    .withMinMessageCount(1L)
+                                    .withMaxMessageCount(MAX_STATUS_MESSAGES_PER_READ)
+                                    .withReadTimeoutMillis(STATUS_READ_TIMEOUT_MILLIS));
                     for (Message message : messages) {
+                        nextStatusSequenceNumber = message.getSequenceNumber() + 1;
                         // Deserialize the status message first.
                         StatusMessage statusMessage = ValidateAndSerialize.deserializeJsonBytesToObj(message.getPayload(), StatusMessage.class);
+                        // The status stream may carry statuses for other export tasks, so skip any status
+                        // that is not about the task we appended above.
+                        if (!isStatusForTask(statusMessage, STREAM_NAME, taskSequenceNumber)) {
+                            continue;
+                        }
                         // Check the status of the status message. If the status is "Success", the file was successfully uploaded to S3.
                         // If the status was either "Failure" or "Canceled", the server was unable to upload the file to S3.
                         // We will print the message for why the upload to S3 failed from the status message.
@@ -119,13 +138,30 @@ public class StreamManagerS3 {
                             isS3UploadComplete = true;
                         }
                     }
+                } catch (NotEnoughMessagesException ignored) {
+                    // No new status was written within the read timeout, read again.
                 } catch (StreamManagerException ignored) {
-                } finally {
-                    // Sleep for sometime for the S3 upload task to complete before trying to read the status message.
-                    Thread.sleep(5000);
+                    // Back off before retrying so that a persistent error does not turn into a busy loop.
+                    Thread.sleep(RETRY_DELAY_MILLIS);
                 }
             }
         } catch (Exception ignored) {
         }
     }
+
+    /**
+     * Checks whether a status message belongs to the export task appended to the given stream
+     * with the given sequence number.
+     *
+     * @param statusMessage status message read from the export status stream.
+     * @param streamName name of the stream the export task was appended to.
+     * @param taskSequenceNumber sequence number returned when the export task was appended.
+     * @return true if the status message is about that export task.
+     */
+    private static boolean isStatusForTask(StatusMessage statusMessage, String streamName, long taskSequenceNumber) {
+        StatusContext statusContext = statusMessage.getStatusContext();
+        return statusContext != null
+                && streamName.equals(statusContext.getStreamName())
+                && Long.valueOf(taskSequenceNumber).equals(statusContext.getSequenceNumber());
+    }
 }
\ No newline at end of file